@@ -0,0 +1,74 @@
+package fr.pturpin.quickcheck.benchmark;
+
+import fr.pturpin.quickcheck.base.Ranges;
+import fr.pturpin.quickcheck.generator.DoubleGenerator;
+import fr.pturpin.quickcheck.generator.IntGenerator;
+import fr.pturpin.quickcheck.generator.LongGenerator;
+import fr.pturpin.quickcheck.generator.NumberGens;
+import fr.pturpin.quickcheck.random.RandomEngines;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the random engines when driving the number generators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomEngineBenchmark {
+
+  @Param({"jdk", "splittable", "xoroshiro128++", "pcg32"})
+  private String engine;
+
+  private Random random;
+
+  private final IntGenerator integerGen = NumberGens.integerGen();
+  private final IntGenerator boundedIntegerGen = NumberGens.integerGen(Ranges.closed(0, 1000));
+  private final LongGenerator longGen = NumberGens.longGen();
+  private final DoubleGenerator doubleGen = NumberGens.doubleGen();
+
+  @Setup
+  public void setUp() {
+    switch (engine) {
+      case "jdk":
+        random = new Random(0L);
+        break;
+      case "splittable":
+        random = RandomEngines.splittable(0L);
+        break;
+      case "xoroshiro128++":
+        random = RandomEngines.xoroshiro128PlusPlus(0L);
+        break;
+      case "pcg32":
+        random = RandomEngines.pcg32(0L);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown engine " + engine);
+    }
+  }
+
+  @Benchmark
+  public int integerGen() {
+    return integerGen.getAsInt(random);
+  }
+
+  @Benchmark
+  public int boundedIntegerGen() {
+    return boundedIntegerGen.getAsInt(random);
+  }
+
+  @Benchmark
+  public long longGen() {
+    return longGen.getAsLong(random);
+  }
+
+  @Benchmark
+  public double doubleGen() {
+    return doubleGen.getAsDouble(random);
+  }
+}
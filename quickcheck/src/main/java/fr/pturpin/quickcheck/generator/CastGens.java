@@ -37,8 +37,9 @@ public final class CastGens {
    * @return casted generator
    * @throws NullPointerException if given generator or target class are null
    */
-  public static Generator<Long> intToLong(Generator<Integer> generator) {
-    return primitiveCast(generator, int.class, long.class);
+  public static LongGenerator intToLong(Generator<Integer> generator) {
+    IntGenerator baseGen = IntGenerator.unboxed(generator);
+    return re -> (long) baseGen.getAsInt(re);
   }
 
   /**
@@ -51,8 +52,9 @@ public final class CastGens {
    * @return casted generator
    * @throws NullPointerException if given generator or target class are null
    */
-  public static Generator<Integer> longToInt(Generator<Long> generator) {
-    return primitiveCast(generator, long.class, int.class);
+  public static IntGenerator longToInt(Generator<Long> generator) {
+    LongGenerator baseGen = LongGenerator.unboxed(generator);
+    return re -> (int) baseGen.getAsLong(re);
   }
 
   /**
@@ -65,8 +67,9 @@ public final class CastGens {
    * @return casted generator
    * @throws NullPointerException if given generator or target class are null
    */
-  public static Generator<Integer> doubleToInt(Generator<Double> generator) {
-    return primitiveCast(generator, double.class, int.class);
+  public static IntGenerator doubleToInt(Generator<Double> generator) {
+    DoubleGenerator baseGen = DoubleGenerator.unboxed(generator);
+    return re -> (int) baseGen.getAsDouble(re);
   }
 
   /**
@@ -79,8 +82,9 @@ public final class CastGens {
    * @return casted generator
    * @throws NullPointerException if given generator or target class are null
    */
-  public static Generator<Long> doubleToLong(Generator<Double> generator) {
-    return primitiveCast(generator, double.class, long.class);
+  public static LongGenerator doubleToLong(Generator<Double> generator) {
+    DoubleGenerator baseGen = DoubleGenerator.unboxed(generator);
+    return re -> (long) baseGen.getAsDouble(re);
   }
 
   /**
@@ -92,8 +96,9 @@ public final class CastGens {
    * @return casted generator
    * @throws NullPointerException if given generator or target class are null
    */
-  public static Generator<Double> intToDouble(Generator<Integer> generator) {
-    return primitiveCast(generator, int.class, double.class);
+  public static DoubleGenerator intToDouble(Generator<Integer> generator) {
+    IntGenerator baseGen = IntGenerator.unboxed(generator);
+    return re -> (double) baseGen.getAsInt(re);
   }
 
   /**
@@ -105,8 +110,9 @@ public final class CastGens {
    * @return casted generator
    * @throws NullPointerException if given generator or target class are null
    */
-  public static Generator<Double> longToDouble(Generator<Long> generator) {
-    return primitiveCast(generator, long.class, double.class);
+  public static DoubleGenerator longToDouble(Generator<Long> generator) {
+    LongGenerator baseGen = LongGenerator.unboxed(generator);
+    return re -> (double) baseGen.getAsLong(re);
   }
 
   /**
@@ -139,7 +145,7 @@ public final class CastGens {
       if (int.class.equals(targetUnboxedKlass)) {
         return (Generator) baseGen;
       } else if (long.class.equals(targetUnboxedKlass)) {
-        Generator<Long> targetGen = Generators.map(baseGen, Integer::longValue);
+        Generator<Long> targetGen = intToLong(baseGen);
         return (Generator) targetGen;
       } else if (short.class.equals(targetUnboxedKlass)) {
         Generator<Short> targetGen = Generators.map(baseGen, Integer::shortValue);
@@ -148,7 +154,7 @@ public final class CastGens {
         Generator<Float> targetGen = Generators.map(baseGen, Integer::floatValue);
         return (Generator) targetGen;
       } else if (double.class.equals(targetUnboxedKlass)) {
-        Generator<Double> targetGen = Generators.map(baseGen, Integer::doubleValue);
+        Generator<Double> targetGen = intToDouble(baseGen);
         return (Generator) targetGen;
       } else if (byte.class.equals(targetUnboxedKlass)) {
         Generator<Byte> targetGen = Generators.map(baseGen, Integer::byteValue);
@@ -160,7 +166,7 @@ public final class CastGens {
     } else if (long.class.equals(currentUnboxedKlass)) {
       Generator<Long> baseGen = (Generator) generator;
       if (int.class.equals(targetUnboxedKlass)) {
-        Generator<Integer> targetGen = Generators.map(baseGen, Long::intValue);
+        Generator<Integer> targetGen = longToInt(baseGen);
         return (Generator) targetGen;
       } else if (long.class.equals(targetUnboxedKlass)) {
         return (Generator) baseGen;
@@ -171,7 +177,7 @@ public final class CastGens {
         Generator<Float> targetGen = Generators.map(baseGen, Long::floatValue);
         return (Generator) targetGen;
       } else if (double.class.equals(targetUnboxedKlass)) {
-        Generator<Double> targetGen = Generators.map(baseGen, Long::doubleValue);
+        Generator<Double> targetGen = longToDouble(baseGen);
         return (Generator) targetGen;
       } else if (byte.class.equals(targetUnboxedKlass)) {
         Generator<Byte> targetGen = Generators.map(baseGen, Long::byteValue);
@@ -229,10 +235,10 @@ public final class CastGens {
     } else if (double.class.equals(currentUnboxedKlass)) {
       Generator<Double> baseGen = (Generator) generator;
       if (int.class.equals(targetUnboxedKlass)) {
-        Generator<Integer> targetGen = Generators.map(baseGen, Double::intValue);
+        Generator<Integer> targetGen = doubleToInt(baseGen);
         return (Generator) targetGen;
       } else if (long.class.equals(targetUnboxedKlass)) {
-        Generator<Long> targetGen = Generators.map(baseGen, Double::longValue);
+        Generator<Long> targetGen = doubleToLong(baseGen);
         return (Generator) targetGen;
       } else if (short.class.equals(targetUnboxedKlass)) {
         Generator<Short> targetGen = Generators.map(baseGen, Double::shortValue);
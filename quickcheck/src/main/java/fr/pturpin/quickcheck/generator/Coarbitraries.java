@@ -0,0 +1,131 @@
+package fr.pturpin.quickcheck.generator;
+
+import fr.pturpin.quickcheck.random.RandomEngines;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Helpers to build coarbitrary generators, which are the basis of the function generators.
+ *
+ * A generated function owns a seed drawn at generation time. When applied, the input is hashed and mixed
+ * with this seed to derive a variant, then the output generator is fed with an independent engine seeded by
+ * this variant. Applying a function is then a matter of few arithmetic operations and is free of any side
+ * effect: the same function applied to equal inputs yields equal outputs, even from several threads.
+ *
+ * Inputs are hashed with {@link Object#hashCode()}, or with their bits for primitive inputs.
+ */
+public final class Coarbitraries {
+
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private Coarbitraries() {
+    /* factory class */
+  }
+
+  /**
+   * Derives a new variant from the given seed and input.
+   *
+   * @param seed seed of the function
+   * @param input value given to the function
+   * @return variant of the seed
+   */
+  public static long vary(long seed, Object input) {
+    return vary(seed, (long) Objects.hashCode(input));
+  }
+
+  /**
+   * Derives a new variant from the given seed and primitive input.
+   *
+   * @param seed seed of the function
+   * @param input value given to the function
+   * @return variant of the seed
+   */
+  public static long vary(long seed, int input) {
+    return vary(seed, (long) input);
+  }
+
+  /**
+   * Derives a new variant from the given seed and primitive input.
+   *
+   * @param seed seed of the function
+   * @param input value given to the function
+   * @return variant of the seed
+   */
+  public static long vary(long seed, double input) {
+    return vary(seed, Double.doubleToLongBits(input));
+  }
+
+  /**
+   * Derives a new variant from the given seed and primitive input.
+   *
+   * @param seed seed of the function
+   * @param input value given to the function
+   * @return variant of the seed
+   */
+  public static long vary(long seed, long input) {
+    return RandomEngines.mix64(seed ^ RandomEngines.mix64(input + GOLDEN_GAMMA));
+  }
+
+  /**
+   * Returns a new random engine dedicated to the given variant.
+   *
+   * @param variant variant of a function seed
+   * @return independent random engine
+   */
+  public static Random perturb(long variant) {
+    return RandomEngines.splitMix64(variant);
+  }
+
+  /**
+   * Returns a new random engine dedicated to the given seed and input.
+   *
+   * @see #vary(long, Object)
+   *
+   * @param seed seed of the function
+   * @param input value given to the function
+   * @return independent random engine
+   */
+  public static Random perturb(long seed, Object input) {
+    return perturb(vary(seed, input));
+  }
+
+  /**
+   * Returns a new random engine dedicated to the given seed and primitive input.
+   *
+   * @see #vary(long, int)
+   *
+   * @param seed seed of the function
+   * @param input value given to the function
+   * @return independent random engine
+   */
+  public static Random perturb(long seed, int input) {
+    return perturb(vary(seed, input));
+  }
+
+  /**
+   * Returns a new random engine dedicated to the given seed and primitive input.
+   *
+   * @see #vary(long, long)
+   *
+   * @param seed seed of the function
+   * @param input value given to the function
+   * @return independent random engine
+   */
+  public static Random perturb(long seed, long input) {
+    return perturb(vary(seed, input));
+  }
+
+  /**
+   * Returns a new random engine dedicated to the given seed and primitive input.
+   *
+   * @see #vary(long, double)
+   *
+   * @param seed seed of the function
+   * @param input value given to the function
+   * @return independent random engine
+   */
+  public static Random perturb(long seed, double input) {
+    return perturb(vary(seed, input));
+  }
+}
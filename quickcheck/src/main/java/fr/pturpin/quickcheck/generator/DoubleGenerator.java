@@ -0,0 +1,86 @@
+package fr.pturpin.quickcheck.generator;
+
+import java.util.Random;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Specialization of {@link Generator} producing primitive double values without boxing.
+ *
+ * Boxed values are still available through {@link #get(Random)} so a primitive generator can be used
+ * wherever a {@code Generator<Double>} is expected.
+ */
+@FunctionalInterface
+public interface DoubleGenerator extends Generator<Double> {
+
+  /**
+   * Yields a new generated primitive value with the given random engine.
+   *
+   * @param re mutable random engine
+   * @return randomized value
+   */
+  double getAsDouble(Random re);
+
+  @Override
+  default Double get(Random re) {
+    return getAsDouble(re);
+  }
+
+  /**
+   * Transformed generator using this generator as base and mapping values by the given operator.
+   *
+   * @param mapper operator mapping all yielded value of this generator
+   * @return transformed generator
+   * @throws NullPointerException if the operator is null
+   */
+  default DoubleGenerator map(DoubleUnaryOperator mapper) {
+    checkNotNull(mapper);
+    return re -> mapper.applyAsDouble(getAsDouble(re));
+  }
+
+  /**
+   * Filtered generator using this generator as base and filtering all values rejected by the given predicate.
+   *
+   * @see Generators#filter(Generator, DoublePredicate)
+   *
+   * @param predicate filtering predicate
+   * @return filtered generator
+   * @throws NullPointerException if the predicate is null
+   */
+  default DoubleGenerator filter(DoublePredicate predicate) {
+    return Generators.filter(this, predicate);
+  }
+
+  /**
+   * Generator selecting uniformly a element in the given universe of possibilities.
+   *
+   * @param values universe of possibilities
+   * @return uniform generator of one of given universe
+   * @throws IllegalArgumentException if given universe is empty
+   * @throws NullPointerException if given universe is null
+   */
+  static DoubleGenerator oneOf(double... values) {
+    checkArgument(values.length > 0);
+    double[] copy = values.clone();
+    return re -> copy[re.nextInt(copy.length)];
+  }
+
+  /**
+   * Returns a primitive view of the given generator.
+   * If the generator is already a primitive one, it is returned as is. Else, yielded values are unboxed.
+   *
+   * @param generator generator to view as primitive
+   * @return primitive generator
+   * @throws NullPointerException if given generator is null
+   */
+  static DoubleGenerator unboxed(Generator<Double> generator) {
+    checkNotNull(generator);
+    if (generator instanceof DoubleGenerator) {
+      return (DoubleGenerator) generator;
+    }
+    return re -> generator.get(re);
+  }
+}
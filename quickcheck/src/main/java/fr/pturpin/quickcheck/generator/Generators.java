@@ -2,12 +2,9 @@ package fr.pturpin.quickcheck.generator;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
-import fr.pturpin.quickcheck.base.Reflections;
 
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Random;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.*;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -180,14 +177,14 @@ public final class Generators {
    * @return filtered generator
    * @throws NullPointerException if the generator of the predicate are null
    */
-  public static Generator<Double> filter(Generator<Double> generator, DoublePredicate predicate) {
-    checkNotNull(generator);
+  public static DoubleGenerator filter(Generator<Double> generator, DoublePredicate predicate) {
+    DoubleGenerator primitiveGen = DoubleGenerator.unboxed(generator);
     checkNotNull(predicate);
     return re -> {
       double value;
       int nbLoop = 0;
       do {
-        value = generator.get(re);
+        value = primitiveGen.getAsDouble(re);
         nbLoop++;
         if (nbLoop > MAX_FILTER_LOOP) {
           throw reachMaxFilterException();
@@ -207,14 +204,14 @@ public final class Generators {
    * @return filtered generator
    * @throws NullPointerException if the generator of the predicate are null
    */
-  public static Generator<Long> filter(Generator<Long> generator, LongPredicate predicate) {
-    checkNotNull(generator);
+  public static LongGenerator filter(Generator<Long> generator, LongPredicate predicate) {
+    LongGenerator primitiveGen = LongGenerator.unboxed(generator);
     checkNotNull(predicate);
     return re -> {
       long value;
       int nbLoop = 0;
       do {
-        value = generator.get(re);
+        value = primitiveGen.getAsLong(re);
         nbLoop++;
         if (nbLoop > MAX_FILTER_LOOP) {
           throw reachMaxFilterException();
@@ -234,14 +231,14 @@ public final class Generators {
    * @return filtered generator
    * @throws NullPointerException if the generator of the predicate are null
    */
-  public static Generator<Integer> filter(Generator<Integer> generator, IntPredicate predicate) {
-    checkNotNull(generator);
+  public static IntGenerator filter(Generator<Integer> generator, IntPredicate predicate) {
+    IntGenerator primitiveGen = IntGenerator.unboxed(generator);
     checkNotNull(predicate);
     return re -> {
       int value;
       int nbLoop = 0;
       do {
-        value = generator.get(re);
+        value = primitiveGen.getAsInt(re);
         nbLoop++;
         if (nbLoop > MAX_FILTER_LOOP) {
           throw reachMaxFilterException();
@@ -290,34 +287,41 @@ public final class Generators {
   /**
    * Returns a new coarbitrary generator used to create functional generator of type a -> b.
    *
-   * The produced generator used the {@link Object#hashCode()} of the input value to perturb the random generator.
-   * With the perturbed random generator, it fetch value from output generator.
-   * The random generator state is restored after each call.
+   * @see #coGenerator(long, Object, Generator)
+   *
+   * @param input value
+   * @param outputGen generator of output values
+   * @param <T> type of output
+   * @return coarbitrary generator
+   * @throws NullPointerException if given output generator is null
+   */
+  public static <T> Generator<T> coGenerator(Object input, Generator<T> outputGen) {
+    return coGenerator(0L, input, outputGen);
+  }
+
+  /**
+   * Returns a new coarbitrary generator used to create functional generator of type a -> b.
+   *
+   * The produced generator ignores the given random engine and fetches the output value with an independent
+   * engine seeded from the given seed and the {@link Object#hashCode()} of the input value.
+   * So the state of the given random engine is never modified.
    *
    * It's guarantee that equal elements (precisely with same hash code) implies a constant generated output
-   * when using same Random implementation.
+   * given the same seed.
    *
+   * @see Coarbitraries
+   *
+   * @param seed seed of the function to generate
    * @param input value
    * @param outputGen generator of output values
    * @param <T> type of output
    * @return coarbitrary generator
+   * @throws NullPointerException if given output generator is null
    */
-  public static <T> Generator<T> coGenerator(Object input, Generator<T> outputGen) {
+  public static <T> Generator<T> coGenerator(long seed, Object input, Generator<T> outputGen) {
     checkNotNull(outputGen);
-    int newSeed = Objects.hashCode(input);
-
-    Function<Random, AtomicLong> seedGetter = Reflections.uncheckedFieldGetter(Random.class, "seed");
-    return re -> {
-      long previousSeed = seedGetter.apply(re).get();
-      T out;
-      try {
-        re.setSeed(newSeed);
-        out = outputGen.get(re);
-      } finally {
-        re.setSeed(previousSeed);
-      }
-      return out;
-    };
+    long variant = Coarbitraries.vary(seed, input);
+    return re -> outputGen.get(Coarbitraries.perturb(variant));
   }
 
 }
@@ -0,0 +1,86 @@
+package fr.pturpin.quickcheck.generator;
+
+import java.util.Random;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Specialization of {@link Generator} producing primitive long values without boxing.
+ *
+ * Boxed values are still available through {@link #get(Random)} so a primitive generator can be used
+ * wherever a {@code Generator<Long>} is expected.
+ */
+@FunctionalInterface
+public interface LongGenerator extends Generator<Long> {
+
+  /**
+   * Yields a new generated primitive value with the given random engine.
+   *
+   * @param re mutable random engine
+   * @return randomized value
+   */
+  long getAsLong(Random re);
+
+  @Override
+  default Long get(Random re) {
+    return getAsLong(re);
+  }
+
+  /**
+   * Transformed generator using this generator as base and mapping values by the given operator.
+   *
+   * @param mapper operator mapping all yielded value of this generator
+   * @return transformed generator
+   * @throws NullPointerException if the operator is null
+   */
+  default LongGenerator map(LongUnaryOperator mapper) {
+    checkNotNull(mapper);
+    return re -> mapper.applyAsLong(getAsLong(re));
+  }
+
+  /**
+   * Filtered generator using this generator as base and filtering all values rejected by the given predicate.
+   *
+   * @see Generators#filter(Generator, LongPredicate)
+   *
+   * @param predicate filtering predicate
+   * @return filtered generator
+   * @throws NullPointerException if the predicate is null
+   */
+  default LongGenerator filter(LongPredicate predicate) {
+    return Generators.filter(this, predicate);
+  }
+
+  /**
+   * Generator selecting uniformly a element in the given universe of possibilities.
+   *
+   * @param values universe of possibilities
+   * @return uniform generator of one of given universe
+   * @throws IllegalArgumentException if given universe is empty
+   * @throws NullPointerException if given universe is null
+   */
+  static LongGenerator oneOf(long... values) {
+    checkArgument(values.length > 0);
+    long[] copy = values.clone();
+    return re -> copy[re.nextInt(copy.length)];
+  }
+
+  /**
+   * Returns a primitive view of the given generator.
+   * If the generator is already a primitive one, it is returned as is. Else, yielded values are unboxed.
+   *
+   * @param generator generator to view as primitive
+   * @return primitive generator
+   * @throws NullPointerException if given generator is null
+   */
+  static LongGenerator unboxed(Generator<Long> generator) {
+    checkNotNull(generator);
+    if (generator instanceof LongGenerator) {
+      return (LongGenerator) generator;
+    }
+    return re -> generator.get(re);
+  }
+}
@@ -24,7 +24,7 @@ public final class NumberGens {
    *
    * @return uniform integer generator
    */
-  public static Generator<Integer> integerGen() {
+  public static IntGenerator integerGen() {
     return integerGen(Ranges.closed(Integer.MIN_VALUE, Integer.MAX_VALUE));
   }
 
@@ -38,18 +38,19 @@ public final class NumberGens {
    * @throws IllegalArgumentException if given range is empty
    * @throws NullPointerException if given range is null
    */
-  public static Generator<Integer> integerGen(IntRange range) {
+  public static IntGenerator integerGen(IntRange range) {
     checkArgument(!range.isEmpty());
     int min = range.getLeft() + (range.isLeftClosed() ? 0 : 1);
     int max = range.getRight() - (range.isRightClosed() ? 0 : 1);
 
     if (min == max) {
-      return Generators.constGen(min);
+      return re -> min;
     } else if (min == Integer.MIN_VALUE && max == Integer.MAX_VALUE) {
       return Random::nextInt;
     } else if (min == -max) {
       if (max == Integer.MAX_VALUE) {
-        return Generators.filter(Random::nextInt, (int value) -> value != Integer.MIN_VALUE);
+        IntGenerator fullGen = Random::nextInt;
+        return fullGen.filter(value -> value != Integer.MIN_VALUE);
       }
       return re -> re.nextInt(max + 1) * (re.nextBoolean() ? 1 : -1);
     }
@@ -73,7 +74,7 @@ public final class NumberGens {
    *
    * @return uniform long generator
    */
-  public static Generator<Long> longGen() {
+  public static LongGenerator longGen() {
     return longGen(Ranges.closed(Long.MIN_VALUE, Long.MAX_VALUE));
   }
 
@@ -87,18 +88,19 @@ public final class NumberGens {
    * @throws IllegalArgumentException if given range is empty
    * @throws NullPointerException if given range is null
    */
-  public static Generator<Long> longGen(LongRange range) {
+  public static LongGenerator longGen(LongRange range) {
     checkArgument(!range.isEmpty());
     long min = range.getLeft() + (range.isLeftClosed() ? 0 : 1);
     long max = range.getRight() - (range.isRightClosed() ? 0 : 1);
 
     if (min == max) {
-      return Generators.constGen(min);
+      return re -> min;
     } else if (min == Long.MIN_VALUE && max == Long.MAX_VALUE) {
       return Random::nextLong;
     } else if (min == -max) {
       if (max == Integer.MAX_VALUE) {
-        return Generators.filter(Random::nextLong, (long value) -> value != Long.MIN_VALUE);
+        LongGenerator fullGen = Random::nextLong;
+        return fullGen.filter(value -> value != Long.MIN_VALUE);
       }
       return re -> Math.floorMod(re.nextLong(), max + 1) * (re.nextBoolean() ? 1 : -1);
     }
@@ -122,7 +124,7 @@ public final class NumberGens {
    *
    * @return uniform double generator
    */
-  public static Generator<Double> doubleGen() {
+  public static DoubleGenerator doubleGen() {
     return doubleGen(Ranges.closed(-Double.MAX_VALUE, Double.MAX_VALUE));
   }
 
@@ -136,7 +138,7 @@ public final class NumberGens {
    * @throws IllegalArgumentException if given range is empty
    * @throws NullPointerException if given range is null
    */
-  public static Generator<Double> doubleGen(DoubleRange range) {
+  public static DoubleGenerator doubleGen(DoubleRange range) {
     checkArgument(!range.isEmpty());
     double min = range.isLeftClosed() ? range.getLeft() : range.getLeft() + Double.MIN_VALUE;
     double max = range.isRightClosed() ?  range.getRight() : range.getRight() - Double.MIN_VALUE;
@@ -166,8 +168,8 @@ public final class NumberGens {
    *
    * @return special double values generator
    */
-  public static Generator<Double> specialDouble() {
-    return Generators.oneOf(Double.MIN_VALUE, Double.MAX_VALUE,
+  public static DoubleGenerator specialDouble() {
+    return DoubleGenerator.oneOf(Double.MIN_VALUE, Double.MAX_VALUE,
         Double.MIN_NORMAL, Double.NaN, 0.d, -0.d,
         Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
   }
@@ -132,17 +132,15 @@ public final class ReflectiveGenerators {
     return Reflections.uncheckedNewFactory(klass);
   }
 
-  private static Optional<Function<Generator<Double>, Generator<Double>>> fetchDoubleMapper(Annotation annotation) {
+  private static Optional<Function<Generator<Double>, DoubleGenerator>> fetchDoubleMapper(Annotation annotation) {
     if (annotation instanceof Doubles.IncludeNaN) {
       double rate = ((Doubles.IncludeNaN) annotation).rate();
-      return Optional.of(gen -> Generators.selection(Generators.constGen(Double.NaN), gen, Generators.coin(rate)));
+      return Optional.of(gen -> withExtra(gen, re -> Double.NaN, rate));
     } else if (annotation instanceof Doubles.Extra) {
       Doubles.Extra doubleAnnot = (Doubles.Extra) annotation;
       double rate = doubleAnnot.rate();
-      List<Double> values = Arrays.stream(doubleAnnot.values())
-          .boxed()
-          .collect(toImmutableList());
-      return Optional.of(gen -> Generators.selection(Generators.oneOf(values), gen, Generators.coin(rate)));
+      DoubleGenerator extraGen = DoubleGenerator.oneOf(doubleAnnot.values());
+      return Optional.of(gen -> withExtra(gen, extraGen, rate));
     } else if (annotation instanceof Doubles.Exclude) {
       double[] excludedValues = ((Doubles.Exclude) annotation).value();
       DoublePredicate predicate = value -> Arrays.stream(excludedValues)
@@ -166,14 +164,12 @@ public final class ReflectiveGenerators {
     return Optional.empty();
   }
 
-  private static Optional<Function<Generator<Integer>, Generator<Integer>>> fetchIntegerMapper(Annotation annotation) {
+  private static Optional<Function<Generator<Integer>, IntGenerator>> fetchIntegerMapper(Annotation annotation) {
     if (annotation instanceof Ints.Extra) {
       Ints.Extra extraAnnot = (Ints.Extra) annotation;
       double rate = extraAnnot.rate();
-      List<Integer> values = Arrays.stream(extraAnnot.values())
-          .boxed()
-          .collect(toImmutableList());
-      return Optional.of(gen -> Generators.selection(Generators.oneOf(values), gen, Generators.coin(rate)));
+      IntGenerator extraGen = IntGenerator.oneOf(extraAnnot.values());
+      return Optional.of(gen -> withExtra(gen, extraGen, rate));
     } else if (annotation instanceof Ints.Exclude) {
       int[] excludedValues = ((Ints.Exclude) annotation).value();
       IntPredicate predicate = value -> Arrays.stream(excludedValues)
@@ -197,14 +193,12 @@ public final class ReflectiveGenerators {
     return Optional.empty();
   }
 
-  private static Optional<Function<Generator<Long>, Generator<Long>>> fetchLongMapper(Annotation annotation) {
+  private static Optional<Function<Generator<Long>, LongGenerator>> fetchLongMapper(Annotation annotation) {
     if (annotation instanceof Longs.Extra) {
       Longs.Extra extraAnnot = (Longs.Extra) annotation;
       double rate = extraAnnot.rate();
-      List<Long> values = Arrays.stream(extraAnnot.values())
-          .boxed()
-          .collect(toImmutableList());
-      return Optional.of(gen -> Generators.selection(Generators.oneOf(values), gen, Generators.coin(rate)));
+      LongGenerator extraGen = LongGenerator.oneOf(extraAnnot.values());
+      return Optional.of(gen -> withExtra(gen, extraGen, rate));
     } else if (annotation instanceof Longs.Exclude) {
       long[] excludedValues = ((Longs.Exclude) annotation).value();
       LongPredicate predicate = value -> Arrays.stream(excludedValues)
@@ -228,6 +222,21 @@ public final class ReflectiveGenerators {
     return Optional.empty();
   }
 
+  private static DoubleGenerator withExtra(Generator<Double> generator, DoubleGenerator extraGen, double rate) {
+    DoubleGenerator baseGen = DoubleGenerator.unboxed(generator);
+    return re -> re.nextDouble() <= rate ? extraGen.getAsDouble(re) : baseGen.getAsDouble(re);
+  }
+
+  private static IntGenerator withExtra(Generator<Integer> generator, IntGenerator extraGen, double rate) {
+    IntGenerator baseGen = IntGenerator.unboxed(generator);
+    return re -> re.nextDouble() <= rate ? extraGen.getAsInt(re) : baseGen.getAsInt(re);
+  }
+
+  private static LongGenerator withExtra(Generator<Long> generator, LongGenerator extraGen, double rate) {
+    LongGenerator baseGen = LongGenerator.unboxed(generator);
+    return re -> re.nextDouble() <= rate ? extraGen.getAsLong(re) : baseGen.getAsLong(re);
+  }
+
   private static boolean isDouble(Parameter parameter) {
     return Double.class.isAssignableFrom(parameter.getType())
         || double.class.isAssignableFrom(parameter.getType());
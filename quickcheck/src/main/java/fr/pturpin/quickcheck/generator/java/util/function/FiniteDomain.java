@@ -0,0 +1,80 @@
+package fr.pturpin.quickcheck.generator.java.util.function;
+
+import com.google.common.primitives.Primitives;
+import fr.pturpin.quickcheck.generator.Coarbitraries;
+
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Small finite input domain of a tabulated function: booleans or constants of an enum, plus null.
+ *
+ * Each value of the domain, null included, is associated to an index in {@code [0, size())}.
+ */
+final class FiniteDomain {
+
+  static final int MAX_SIZE = 64;
+
+  private static final FiniteDomain BOOLEAN_DOMAIN = new FiniteDomain(new Object[] { false, true });
+
+  private final Object[] values;
+
+  private FiniteDomain(Object[] values) {
+    this.values = values;
+  }
+
+  /**
+   * Returns the domain of the given class if it is a boolean or an enum with less than {@link #MAX_SIZE} constants.
+   *
+   * @param klass input class of the function
+   * @return finite domain of the class if any
+   * @throws NullPointerException if klass is null
+   */
+  static Optional<FiniteDomain> of(Class<?> klass) {
+    Class<?> wrapped = Primitives.wrap(checkNotNull(klass));
+    if (wrapped.equals(Boolean.class)) {
+      return Optional.of(BOOLEAN_DOMAIN);
+    } else if (wrapped.isEnum() && wrapped.getEnumConstants().length < MAX_SIZE) {
+      return Optional.of(new FiniteDomain(wrapped.getEnumConstants()));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @return number of values in this domain, including null
+   */
+  int size() {
+    return values.length + 1;
+  }
+
+  /**
+   * @param value value of the domain, possibly null
+   * @return index of the value
+   */
+  int indexOf(Object value) {
+    if (value == null) {
+      return values.length;
+    } else if (value instanceof Boolean) {
+      return (Boolean) value ? 1 : 0;
+    }
+    return ((Enum<?>) value).ordinal();
+  }
+
+  /**
+   * Derives the variant of the value at the given index.
+   * Enum constants are identified by their ordinal, so tabulated functions are reproducible between runs.
+   *
+   * @param seed seed of the function
+   * @param index index of the value
+   * @return variant of the value
+   */
+  long vary(long seed, int index) {
+    if (index == values.length) {
+      return Coarbitraries.vary(seed, (Object) null);
+    } else if (values == BOOLEAN_DOMAIN.values) {
+      return Coarbitraries.vary(seed, values[index]);
+    }
+    return Coarbitraries.vary(seed, index);
+  }
+}
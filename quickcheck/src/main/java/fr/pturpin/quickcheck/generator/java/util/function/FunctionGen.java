@@ -1,8 +1,7 @@
 package fr.pturpin.quickcheck.generator.java.util.function;
 
 import fr.pturpin.quickcheck.annotation.Gen;
-import fr.pturpin.quickcheck.generator.Generator;
-import fr.pturpin.quickcheck.generator.Generators;
+import fr.pturpin.quickcheck.generator.*;
 import fr.pturpin.quickcheck.registry.Registries;
 import fr.pturpin.quickcheck.registry.Registry;
 
@@ -90,7 +89,10 @@ public final class FunctionGen {
   @Gen
   public static <T> Generator<UnaryOperator<T>> unaryOperatorGen(Generator<T> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -103,8 +105,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<DoubleUnaryOperator> doubleUnaryOperatorGen(Generator<Double> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    DoubleGenerator outputGen = DoubleGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsDouble(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -117,8 +122,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<LongUnaryOperator> longUnaryOperatorGen(Generator<Long> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    LongGenerator outputGen = LongGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsLong(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -131,8 +139,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<IntUnaryOperator> intUnaryOperatorGen(Generator<Integer> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    IntGenerator outputGen = IntGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsInt(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -147,10 +158,9 @@ public final class FunctionGen {
   @Gen
   public static <T> Generator<BinaryOperator<T>> binaryOperatorGen(Generator<T> generator) {
     checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<T> leftGen = Generators.coGenerator(left, generator);
-      Generator<T> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> generator.get(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -164,11 +174,10 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<DoubleBinaryOperator> doubleBinaryOperatorGen(Generator<Double> generator) {
-    checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<Double> leftGen = Generators.coGenerator(left, generator);
-      Generator<Double> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    DoubleGenerator outputGen = DoubleGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> outputGen.getAsDouble(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -182,11 +191,10 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<LongBinaryOperator> longBinaryOperatorGen(Generator<Long> generator) {
-    checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<Long> leftGen = Generators.coGenerator(left, generator);
-      Generator<Long> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    LongGenerator outputGen = LongGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> outputGen.getAsLong(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -200,11 +208,10 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<IntBinaryOperator> intBinaryOperatorGen(Generator<Integer> generator) {
-    checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<Integer> leftGen = Generators.coGenerator(left, generator);
-      Generator<Integer> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    IntGenerator outputGen = IntGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> outputGen.getAsInt(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -220,7 +227,10 @@ public final class FunctionGen {
   @Gen
   public static <T> Generator<Predicate<T>> predicateGen(Generator<Boolean> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -234,7 +244,10 @@ public final class FunctionGen {
   @Gen
   public static Generator<DoublePredicate> doublePredicateGen(Generator<Boolean> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -248,7 +261,10 @@ public final class FunctionGen {
   @Gen
   public static Generator<LongPredicate> longPredicateGen(Generator<Boolean> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -262,7 +278,10 @@ public final class FunctionGen {
   @Gen
   public static Generator<IntPredicate> intPredicateGen(Generator<Boolean> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -278,10 +297,9 @@ public final class FunctionGen {
   @Gen
   public static <T, U> Generator<BiPredicate<T, U>> biPredicateGen(Generator<Boolean> generator) {
     checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<Boolean> leftGen = Generators.coGenerator(left, generator);
-      Generator<Boolean> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> generator.get(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -298,7 +316,10 @@ public final class FunctionGen {
   @Gen
   public static <T, R> Generator<Function<T, R>> functionGen(Generator<R> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -313,7 +334,10 @@ public final class FunctionGen {
   @Gen
   public static <R> Generator<DoubleFunction<R>> doubleFunctionGen(Generator<R> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -328,7 +352,10 @@ public final class FunctionGen {
   @Gen
   public static <R> Generator<LongFunction<R>> longFunctionGen(Generator<R> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -343,7 +370,10 @@ public final class FunctionGen {
   @Gen
   public static <R> Generator<IntFunction<R>> intFunctionGen(Generator<R> generator) {
     checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> generator.get(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -357,8 +387,11 @@ public final class FunctionGen {
    */
   @Gen
   public static <T> Generator<ToDoubleFunction<T>> toDoubleFunctionGen(Generator<Double> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    DoubleGenerator outputGen = DoubleGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsDouble(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -371,8 +404,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<LongToDoubleFunction> longToDoubleFunctionGen(Generator<Double> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    DoubleGenerator outputGen = DoubleGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsDouble(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -385,8 +421,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<IntToDoubleFunction> intToDoubleFunctionGen(Generator<Double> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    DoubleGenerator outputGen = DoubleGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsDouble(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -400,8 +439,11 @@ public final class FunctionGen {
    */
   @Gen
   public static <T> Generator<ToLongFunction<T>> toLongFunctionGen(Generator<Long> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    LongGenerator outputGen = LongGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsLong(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -414,8 +456,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<DoubleToLongFunction> doubleToLongFunctionGen(Generator<Long> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    LongGenerator outputGen = LongGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsLong(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -428,8 +473,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<IntToLongFunction> intToLongFunctionGen(Generator<Long> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    LongGenerator outputGen = LongGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsLong(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -443,8 +491,11 @@ public final class FunctionGen {
    */
   @Gen
   public static <T> Generator<ToIntFunction<T>> toIntFunctionGen(Generator<Integer> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    IntGenerator outputGen = IntGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsInt(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -457,8 +508,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<DoubleToIntFunction> doubleToIntFunctionGen(Generator<Integer> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    IntGenerator outputGen = IntGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsInt(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -471,8 +525,11 @@ public final class FunctionGen {
    */
   @Gen
   public static Generator<LongToIntFunction> longToIntFunctionGen(Generator<Integer> generator) {
-    checkNotNull(generator);
-    return re -> value -> Generators.coGenerator(value, generator).get(re);
+    IntGenerator outputGen = IntGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return value -> outputGen.getAsInt(Coarbitraries.perturb(seed, value));
+    };
   }
 
   /**
@@ -489,10 +546,9 @@ public final class FunctionGen {
   @Gen
   public static <T, U, R> Generator<BiFunction<T, U, R>> biFunctionGen(Generator<R> generator) {
     checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<R> leftGen = Generators.coGenerator(left, generator);
-      Generator<R> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> generator.get(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -508,11 +564,10 @@ public final class FunctionGen {
    */
   @Gen
   public static <T, U> Generator<ToDoubleBiFunction<T, U>> toDoubleBiFunctionGen(Generator<Double> generator) {
-    checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<Double> leftGen = Generators.coGenerator(left, generator);
-      Generator<Double> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    DoubleGenerator outputGen = DoubleGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> outputGen.getAsDouble(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -528,11 +583,10 @@ public final class FunctionGen {
    */
   @Gen
   public static <T, U> Generator<ToLongBiFunction<T, U>> toLongBiFunctionGen(Generator<Long> generator) {
-    checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<Long> leftGen = Generators.coGenerator(left, generator);
-      Generator<Long> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    LongGenerator outputGen = LongGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> outputGen.getAsLong(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -548,11 +602,10 @@ public final class FunctionGen {
    */
   @Gen
   public static <T, U> Generator<ToIntBiFunction<T, U>> toIntBiFunctionGen(Generator<Integer> generator) {
-    checkNotNull(generator);
-    return re -> (left, right) -> {
-      Generator<Integer> leftGen = Generators.coGenerator(left, generator);
-      Generator<Integer> rightGen = Generators.coGenerator(right, leftGen);
-      return rightGen.get(re);
+    IntGenerator outputGen = IntGenerator.unboxed(generator);
+    return re -> {
+      long seed = re.nextLong();
+      return (left, right) -> outputGen.getAsInt(Coarbitraries.perturb(Coarbitraries.vary(seed, left), right));
     };
   }
 
@@ -0,0 +1,80 @@
+package fr.pturpin.quickcheck.generator.java.util.function;
+
+import fr.pturpin.quickcheck.generator.Coarbitraries;
+import fr.pturpin.quickcheck.generator.Generator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Bounded cache of the outputs of a generated function, keyed by the variant of its inputs.
+ *
+ * As the output of a generated function only depends on the variant derived from its seed and input
+ * (see {@link Coarbitraries}), caching by variant never changes the semantic of the function:
+ * two inputs with the same variant would yield the same output anyway.
+ *
+ * The table uses open addressing with a short linear probe. When all probed slots are taken,
+ * the home slot is overwritten, so the memory is bounded by the capacity given at construction.
+ * Entries are immutable and published by a single reference write: concurrent readers may miss an entry
+ * and recompute it, but never see a partially built one.
+ *
+ * @param <V> type of cached outputs
+ */
+final class MemoTable<V> {
+
+  private static final int MAX_PROBE = 8;
+  private static final Object NULL_VALUE = new Object();
+
+  private final Entry[] entries;
+  private final int mask;
+
+  /**
+   * @param capacity minimal number of cached outputs
+   * @throws IllegalArgumentException if capacity is not strictly positive
+   */
+  MemoTable(int capacity) {
+    checkArgument(capacity > 0 && capacity <= 1 << 30);
+    int size = Integer.highestOneBit(capacity);
+    size = size < capacity ? size << 1 : size;
+    this.entries = new Entry[size];
+    this.mask = size - 1;
+  }
+
+  /**
+   * Returns the cached output of the given variant, or generates it with an engine perturbed by the variant.
+   *
+   * @param variant variant of the function input
+   * @param generator output generator
+   * @return output of the variant
+   */
+  @SuppressWarnings("unchecked")
+  V get(long variant, Generator<? extends V> generator) {
+    int home = (int) (variant ^ (variant >>> 32)) & mask;
+    int index = home;
+    for (int i = 0; i < MAX_PROBE; i++) {
+      Entry entry = entries[index];
+      if (entry == null) {
+        return put(index, variant, generator);
+      } else if (entry.key == variant) {
+        return entry.value == NULL_VALUE ? null : (V) entry.value;
+      }
+      index = (index + 1) & mask;
+    }
+    return put(home, variant, generator);
+  }
+
+  private V put(int index, long variant, Generator<? extends V> generator) {
+    V value = generator.get(Coarbitraries.perturb(variant));
+    entries[index] = new Entry(variant, value == null ? NULL_VALUE : value);
+    return value;
+  }
+
+  private static final class Entry {
+    private final long key;
+    private final Object value;
+
+    private Entry(long key, Object value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+}
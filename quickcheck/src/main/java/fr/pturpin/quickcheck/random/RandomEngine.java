@@ -0,0 +1,94 @@
+package fr.pturpin.quickcheck.random;
+
+import java.util.Random;
+
+/**
+ * Base class of the alternative pseudo random engines.
+ *
+ * An engine only has to provide a stream of 64 random bits through {@link #nextLong()}, all other methods of
+ * {@link Random} are derived from it. As an engine is a {@link Random}, it can be given to any existing
+ * {@link fr.pturpin.quickcheck.generator.Generator} without any adaptation.
+ *
+ * Contrary to {@link Random}, engines are not thread-safe and are expected to be confined to a single thread.
+ * They also do not use the legacy seed of {@link Random}, so the sequences they yield are not the ones of
+ * {@link Random} for the same seed.
+ *
+ * @see RandomEngines
+ */
+public abstract class RandomEngine extends Random {
+
+  private static final double DOUBLE_UNIT = 0x1.0p-53;
+  private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+  protected RandomEngine() {
+    super(0L);
+  }
+
+  /**
+   * Resets the state of this engine with the given seed.
+   * Two engines of same kind reseeded with the same seed yield the same sequence.
+   *
+   * @param seed new seed of this engine
+   */
+  @Override
+  public void setSeed(long seed) {
+    // Random constructor calls this method before the state of the sub-class is initialized
+    super.setSeed(seed);
+    reseed(seed);
+  }
+
+  /**
+   * Resets the internal state of this engine with the given seed.
+   *
+   * @param seed new seed of this engine
+   */
+  protected abstract void reseed(long seed);
+
+  /**
+   * Returns a new engine whose sequence is statistically independent of the one of this engine.
+   * This engine is advanced by the split.
+   *
+   * @return new independent engine
+   */
+  public abstract RandomEngine split();
+
+  @Override
+  public abstract long nextLong();
+
+  @Override
+  protected int next(int bits) {
+    return (int) (nextLong() >>> (Long.SIZE - bits));
+  }
+
+  @Override
+  public int nextInt() {
+    return (int) (nextLong() >>> Integer.SIZE);
+  }
+
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> (Long.SIZE - 53)) * DOUBLE_UNIT;
+  }
+
+  @Override
+  public float nextFloat() {
+    return (nextLong() >>> (Long.SIZE - 24)) * FLOAT_UNIT;
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return nextLong() < 0;
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    int i = 0;
+    int length = bytes.length;
+    while (i < length) {
+      long rnd = nextLong();
+      for (int n = Math.min(length - i, Long.BYTES); n-- > 0; rnd >>>= Byte.SIZE) {
+        bytes[i++] = (byte) rnd;
+      }
+    }
+  }
+}
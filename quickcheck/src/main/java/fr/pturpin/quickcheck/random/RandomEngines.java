@@ -0,0 +1,215 @@
+package fr.pturpin.quickcheck.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Factory of alternative pseudo random engines.
+ *
+ * All the engines are faster than {@link java.util.Random} because they do not pay for its thread-safety
+ * and they have better statistical qualities. They are meant to be used as drop-in replacements when
+ * running a large number of tests.
+ */
+public final class RandomEngines {
+
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private RandomEngines() {
+    /* factory class */
+  }
+
+  /**
+   * Returns a new engine backed by a {@link SplittableRandom}.
+   *
+   * @param seed initial seed of the engine
+   * @return new splittable engine
+   */
+  public static RandomEngine splittable(long seed) {
+    return new SplittableEngine(new SplittableRandom(seed));
+  }
+
+  /**
+   * Returns a new engine implementing the xoroshiro128++ algorithm of Blackman and Vigna.
+   * The 128 bits state is initialized from the given seed with the SplitMix64 algorithm.
+   *
+   * @param seed initial seed of the engine
+   * @return new xoroshiro128++ engine
+   */
+  public static RandomEngine xoroshiro128PlusPlus(long seed) {
+    return new Xoroshiro128PlusPlusEngine(seed);
+  }
+
+  /**
+   * Returns a new engine implementing the PCG-XSH-RR 64/32 algorithm of O'Neill.
+   * As this algorithm natively yields 32 bits, the 64 bits values are made of two successive outputs.
+   *
+   * @param seed initial seed of the engine
+   * @return new PCG engine
+   */
+  public static RandomEngine pcg32(long seed) {
+    return new Pcg32Engine(seed);
+  }
+
+  /**
+   * Returns a new engine implementing the SplitMix64 algorithm of Steele, Lea and Flood.
+   * This engine is the cheapest one to create, so it fits short-lived sub-streams.
+   *
+   * @param seed initial seed of the engine
+   * @return new SplitMix64 engine
+   */
+  public static RandomEngine splitMix64(long seed) {
+    return new SplitMix64Engine(seed);
+  }
+
+  /**
+   * Mixes the given value with the finalizer of the SplitMix64 algorithm.
+   * Small differences in inputs yield uncorrelated outputs.
+   *
+   * @param value value to mix
+   * @return mixed value
+   */
+  public static long mix64(long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  private static final class SplittableEngine extends RandomEngine {
+    private SplittableRandom random;
+
+    private SplittableEngine(SplittableRandom random) {
+      this.random = random;
+    }
+
+    @Override
+    protected void reseed(long seed) {
+      random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public RandomEngine split() {
+      return new SplittableEngine(random.split());
+    }
+
+    @Override
+    public long nextLong() {
+      return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+      return random.nextInt();
+    }
+
+    @Override
+    public double nextDouble() {
+      return random.nextDouble();
+    }
+  }
+
+  private static final class SplitMix64Engine extends RandomEngine {
+    private long state;
+
+    private SplitMix64Engine(long seed) {
+      this.state = seed;
+    }
+
+    @Override
+    protected void reseed(long seed) {
+      state = seed;
+    }
+
+    @Override
+    public RandomEngine split() {
+      return new SplitMix64Engine(mix64(nextLong()));
+    }
+
+    @Override
+    public long nextLong() {
+      state += GOLDEN_GAMMA;
+      return mix64(state);
+    }
+  }
+
+  private static final class Xoroshiro128PlusPlusEngine extends RandomEngine {
+    private long s0;
+    private long s1;
+
+    private Xoroshiro128PlusPlusEngine(long seed) {
+      setSeed(seed);
+    }
+
+    @Override
+    protected void reseed(long seed) {
+      long s = seed + GOLDEN_GAMMA;
+      s0 = mix64(s);
+      s1 = mix64(s + GOLDEN_GAMMA);
+    }
+
+    @Override
+    public RandomEngine split() {
+      return new Xoroshiro128PlusPlusEngine(nextLong());
+    }
+
+    @Override
+    public long nextLong() {
+      long s0 = this.s0;
+      long s1 = this.s1;
+      long result = Long.rotateLeft(s0 + s1, 17) + s0;
+      s1 ^= s0;
+      this.s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+      this.s1 = Long.rotateLeft(s1, 28);
+      return result;
+    }
+  }
+
+  private static final class Pcg32Engine extends RandomEngine {
+    private static final long MULTIPLIER = 6364136223846793005L;
+    private static final long DEFAULT_STREAM = 0xda3e39cb94b95bdbL;
+
+    private long state;
+    private long increment;
+
+    private Pcg32Engine(long seed) {
+      setSeed(seed);
+    }
+
+    @Override
+    protected void reseed(long seed) {
+      increment = (DEFAULT_STREAM << 1) | 1;
+      state = 0;
+      nextInt();
+      state += seed;
+      nextInt();
+    }
+
+    @Override
+    public RandomEngine split() {
+      return new Pcg32Engine(nextLong());
+    }
+
+    @Override
+    public int nextInt() {
+      long old = state;
+      state = old * MULTIPLIER + increment;
+      int xorShifted = (int) (((old >>> 18) ^ old) >>> 27);
+      int rotation = (int) (old >>> 59);
+      return Integer.rotateRight(xorShifted, rotation);
+    }
+
+    @Override
+    protected int next(int bits) {
+      return nextInt() >>> (Integer.SIZE - bits);
+    }
+
+    @Override
+    public long nextLong() {
+      return ((long) nextInt() << Integer.SIZE) | (nextInt() & 0xffffffffL);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+      return nextInt() < 0;
+    }
+  }
+}
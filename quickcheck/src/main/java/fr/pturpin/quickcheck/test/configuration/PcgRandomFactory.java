@@ -0,0 +1,22 @@
+package fr.pturpin.quickcheck.test.configuration;
+
+import fr.pturpin.quickcheck.random.RandomEngines;
+
+import java.util.Random;
+
+/**
+ * Random factory creating engines based on the PCG-XSH-RR 64/32 algorithm with a fixed seed.
+ *
+ * @see RandomEngines#pcg32(long)
+ */
+public final class PcgRandomFactory implements RandomFactory {
+
+  public PcgRandomFactory() {
+    // nothing
+  }
+
+  @Override
+  public Random create() {
+    return RandomEngines.pcg32(0L);
+  }
+}
@@ -0,0 +1,22 @@
+package fr.pturpin.quickcheck.test.configuration;
+
+import fr.pturpin.quickcheck.random.RandomEngines;
+
+import java.util.Random;
+
+/**
+ * Random factory creating engines based on a {@link java.util.SplittableRandom} with a fixed seed.
+ *
+ * @see RandomEngines#splittable(long)
+ */
+public final class SplittableRandomFactory implements RandomFactory {
+
+  public SplittableRandomFactory() {
+    // nothing
+  }
+
+  @Override
+  public Random create() {
+    return RandomEngines.splittable(0L);
+  }
+}
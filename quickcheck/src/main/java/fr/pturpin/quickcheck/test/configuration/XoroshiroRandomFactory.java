@@ -0,0 +1,22 @@
+package fr.pturpin.quickcheck.test.configuration;
+
+import fr.pturpin.quickcheck.random.RandomEngines;
+
+import java.util.Random;
+
+/**
+ * Random factory creating engines based on the xoroshiro128++ algorithm with a fixed seed.
+ *
+ * @see RandomEngines#xoroshiro128PlusPlus(long)
+ */
+public final class XoroshiroRandomFactory implements RandomFactory {
+
+  public XoroshiroRandomFactory() {
+    // nothing
+  }
+
+  @Override
+  public Random create() {
+    return RandomEngines.xoroshiro128PlusPlus(0L);
+  }
+}
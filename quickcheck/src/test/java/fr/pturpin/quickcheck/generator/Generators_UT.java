@@ -47,4 +47,40 @@ public class Generators_UT {
     Assert.assertNotEquals(double2, double4); // May be equal but with very small proba
   }
 
+  @Test
+  public void primitiveGeneratorShouldYieldSameValuesAsBoxedView() {
+    IntGenerator intGen = NumberGens.integerGen();
+    LongGenerator longGen = NumberGens.longGen();
+    DoubleGenerator doubleGen = NumberGens.doubleGen();
+
+    Random primitiveRe = new Random(0);
+    Random boxedRe = new Random(0);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(intGen.get(boxedRe).intValue(), intGen.getAsInt(primitiveRe));
+      Assert.assertEquals(longGen.get(boxedRe).longValue(), longGen.getAsLong(primitiveRe));
+      Assert.assertEquals(doubleGen.get(boxedRe), doubleGen.getAsDouble(primitiveRe), 0);
+    }
+  }
+
+  @Test
+  public void unboxedShouldNotWrapPrimitiveGenerator() {
+    IntGenerator intGen = NumberGens.integerGen();
+    Assert.assertSame(intGen, IntGenerator.unboxed(intGen));
+
+    Generator<Integer> boxedGen = re -> 42;
+    Assert.assertEquals(42, IntGenerator.unboxed(boxedGen).getAsInt(new Random(0)));
+  }
+
+  @Test
+  public void primitiveMapAndFilterShouldBeApplied() {
+    IntGenerator evenGen = NumberGens.integerGen().filter(value -> value % 2 == 0);
+    GeneratorAssertions.assertProperty(evenGen, value -> Assert.assertEquals(0, value % 2));
+
+    LongGenerator positiveGen = NumberGens.longGen().map(Math::abs).filter(value -> value >= 0);
+    GeneratorAssertions.assertProperty(positiveGen, value -> Assert.assertTrue(value >= 0));
+
+    DoubleGenerator halfGen = DoubleGenerator.oneOf(1, 2, 4).map(value -> value / 2);
+    GeneratorAssertions.assertProperty(halfGen, value -> Assert.assertTrue(value == 0.5 || value == 1 || value == 2));
+  }
+
 }
@@ -1,5 +1,6 @@
 package fr.pturpin.quickcheck.generator.java.util.function;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import fr.pturpin.quickcheck.generator.Generator;
 import fr.pturpin.quickcheck.generator.Generators;
@@ -8,9 +9,13 @@ import fr.pturpin.quickcheck.identifier.TypeIdentifier;
 import fr.pturpin.quickcheck.registry.Registries;
 import fr.pturpin.quickcheck.registry.Registry;
 import fr.pturpin.quickcheck.test.configuration.DefaultRegistryFactory;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Random;
 import java.util.function.*;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static fr.pturpin.quickcheck.generator.GeneratorAssertions.assertIsInRegistry;
@@ -199,6 +204,44 @@ public class FunctionGen_UT {
     assertIsInRegistries(ToIntBiFunction.class);
   }
 
+  @Test
+  public void functionShouldYieldSameOutputGivenSameInput() {
+    Random re = new Random(0);
+    Function<Object, Double> function = FunctionGen.<Object, Double>functionGen(NumberGens.doubleGen()).get(re);
+    IntBinaryOperator operator = FunctionGen.intBinaryOperatorGen(NumberGens.integerGen()).get(re);
+
+    ImmutableList.of(0, 1, "Hello", new ArrayList<>(), FunctionGen_UT.class).forEach(input ->
+        Assert.assertEquals(function.apply(input), function.apply(input)));
+    IntStream.range(0, 100).forEach(i -> Assert.assertEquals(operator.applyAsInt(i, -i), operator.applyAsInt(i, -i)));
+  }
+
+  @Test
+  public void generatedFunctionsShouldBeDistinct() {
+    Random re = new Random(0);
+    Generator<IntUnaryOperator> operatorGen = FunctionGen.intUnaryOperatorGen(NumberGens.integerGen());
+    IntUnaryOperator first = operatorGen.get(re);
+    IntUnaryOperator second = operatorGen.get(re);
+
+    long nbDifferences = IntStream.range(0, 100)
+        .filter(i -> first.applyAsInt(i) != second.applyAsInt(i))
+        .count();
+    Assert.assertTrue(nbDifferences > 0);
+  }
+
+  @Test
+  public void applyingFunctionShouldNotModifyTheRandomEngine() {
+    Generator<Double> doubleGen = NumberGens.doubleGen();
+    Generator<Function<Integer, Double>> functionGen = FunctionGen.functionGen(doubleGen);
+
+    Random re = new Random(0);
+    Random expectedRe = new Random(0);
+    Function<Integer, Double> function = functionGen.get(re);
+    functionGen.get(expectedRe);
+
+    function.apply(42);
+    Assert.assertEquals(doubleGen.get(expectedRe), doubleGen.get(re));
+  }
+
   private static Stream<Registry> getRegistries() {
     return Stream.of(new DefaultRegistryFactory().create(),
         Registries.alternatives(FunctionGen.functionsRegistry(),
@@ -0,0 +1,84 @@
+package fr.pturpin.quickcheck.random;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+public class RandomEngines_UT {
+
+  private static final int NB_SAMPLES = 1000;
+
+  private static List<LongFunction<RandomEngine>> engineFactories() {
+    return ImmutableList.of(RandomEngines::splittable, RandomEngines::xoroshiro128PlusPlus, RandomEngines::pcg32);
+  }
+
+  @Test
+  public void enginesWithSameSeedShouldYieldSameSequence() {
+    engineFactories().forEach(factory -> {
+      RandomEngine left = factory.apply(42L);
+      RandomEngine right = factory.apply(42L);
+      for (int i = 0; i < NB_SAMPLES; i++) {
+        Assert.assertEquals(left.nextLong(), right.nextLong());
+      }
+    });
+  }
+
+  @Test
+  public void enginesWithDifferentSeedsShouldYieldDifferentSequences() {
+    engineFactories().forEach(factory -> {
+      long[] left = factory.apply(0L).longs(10).toArray();
+      long[] right = factory.apply(1L).longs(10).toArray();
+      Assert.assertFalse(Arrays.equals(left, right));
+    });
+  }
+
+  @Test
+  public void reseededEngineShouldRestartItsSequence() {
+    engineFactories().forEach(factory -> {
+      RandomEngine engine = factory.apply(42L);
+      long[] expected = engine.longs(10).toArray();
+      engine.setSeed(42L);
+      Assert.assertArrayEquals(expected, engine.longs(10).toArray());
+    });
+  }
+
+  @Test
+  public void splitEngineShouldYieldAnotherSequence() {
+    engineFactories().forEach(factory -> {
+      RandomEngine engine = factory.apply(42L);
+      RandomEngine split = engine.split();
+      Assert.assertFalse(Arrays.equals(engine.longs(10).toArray(), split.longs(10).toArray()));
+    });
+  }
+
+  @Test
+  public void derivedValuesShouldBeInTheirDomain() {
+    engineFactories().forEach(factory -> {
+      RandomEngine engine = factory.apply(0L);
+      IntStream.range(0, NB_SAMPLES).forEach(i -> {
+        double doubleValue = engine.nextDouble();
+        Assert.assertTrue(doubleValue >= 0 && doubleValue < 1);
+        float floatValue = engine.nextFloat();
+        Assert.assertTrue(floatValue >= 0 && floatValue < 1);
+        int boundedValue = engine.nextInt(7);
+        Assert.assertTrue(boundedValue >= 0 && boundedValue < 7);
+      });
+    });
+  }
+
+  @Test
+  public void nextBytesShouldFillAllBytes() {
+    engineFactories().forEach(factory -> {
+      byte[] bytes = new byte[13];
+      factory.apply(0L).nextBytes(bytes);
+      long nbZeros = IntStream.range(0, bytes.length).filter(i -> bytes[i] == 0).count();
+      Assert.assertTrue(nbZeros < bytes.length / 2);
+    });
+  }
+
+}